@@ -0,0 +1,31 @@
+public class AuditEntry {
+    private final String shard;
+    private final long timestamp;
+    private final String user;
+    private final int employeeId;
+    private final String action;
+    private final String field;
+    private final String oldValue;
+    private final String newValue;
+
+    public AuditEntry(String shard, long timestamp, String user, int employeeId,
+                      String action, String field, String oldValue, String newValue) {
+        this.shard = shard;
+        this.timestamp = timestamp;
+        this.user = user;
+        this.employeeId = employeeId;
+        this.action = action;
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public String getShard() { return shard; }
+    public long getTimestamp() { return timestamp; }
+    public String getUser() { return user; }
+    public int getEmployeeId() { return employeeId; }
+    public String getAction() { return action; }
+    public String getField() { return field; }
+    public String getOldValue() { return oldValue; }
+    public String getNewValue() { return newValue; }
+}
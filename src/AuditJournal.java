@@ -0,0 +1,56 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entries are written by the employees_audit_* triggers (see DatabaseHelper) in the same
+// transaction as the edit, so they cost no extra commit and cannot be lost separately.
+// The user is carried into the trigger through the employees.updated_by column.
+public class AuditJournal {
+    private static volatile String user = System.getProperty("user.name", "unknown");
+
+    public static void setUser(String name) {
+        user = name;
+    }
+
+    public static String getUser() {
+        return user;
+    }
+
+    public static List<AuditEntry> query(String shard, long fromMillis, long toMillis) throws SQLException {
+        String sql = "SELECT * FROM audit_log WHERE changed_at BETWEEN ? AND ? ORDER BY id";
+        try (Connection conn = DatabaseHelper.getConnection(shard);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, fromMillis);
+            pstmt.setLong(2, toMillis);
+            return readEntries(shard, pstmt);
+        }
+    }
+
+    public static List<AuditEntry> queryEmployee(String shard, int employeeId) throws SQLException {
+        String sql = "SELECT * FROM audit_log WHERE employee_id = ? ORDER BY id";
+        try (Connection conn = DatabaseHelper.getConnection(shard);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, employeeId);
+            return readEntries(shard, pstmt);
+        }
+    }
+
+    private static List<AuditEntry> readEntries(String shard, PreparedStatement pstmt) throws SQLException {
+        List<AuditEntry> entries = new ArrayList<>();
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                entries.add(new AuditEntry(
+                    shard,
+                    rs.getLong("changed_at"),
+                    rs.getString("user"),
+                    rs.getInt("employee_id"),
+                    rs.getString("action"),
+                    rs.getString("field"),
+                    rs.getString("old_value"),
+                    rs.getString("new_value")
+                ));
+            }
+        }
+        return entries;
+    }
+}
@@ -1,10 +1,33 @@
 import java.sql.*;
 
 public class DatabaseHelper {
-    private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final String[] AUDITED_COLUMNS = {
+        "name", "position", "hourly_rate", "hours_worked", "overtime_hours", "working_days"
+    };
 
     public static void initializeDatabase() {
-        try (Connection conn = getConnection();
+        try {
+            initializeShard(ShardRegistry.DEFAULT_SHARD);
+            try (Connection conn = getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("""
+                    CREATE TABLE IF NOT EXISTS shards (
+                        name TEXT PRIMARY KEY,
+                        url TEXT NOT NULL
+                    )""");
+            }
+
+            ShardRegistry.loadShards();
+            for (String shard : ShardRegistry.getShards()) {
+                initializeShard(shard);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static void initializeShard(String shard) throws SQLException {
+        try (Connection conn = getConnection(shard);
              Statement stmt = conn.createStatement()) {
             
             String sql = """
@@ -20,16 +43,98 @@ public class DatabaseHelper {
                     sss REAL,
                     philhealth REAL,
                     pagibig REAL,
-                    tax REAL
+                    tax REAL,
+                    updated_by TEXT
                 )""";
             stmt.execute(sql);
-            
-        } catch (SQLException e) {
-            e.printStackTrace();
+            if (!hasColumn(conn, "employees", "updated_by")) {
+                stmt.execute("ALTER TABLE employees ADD COLUMN updated_by TEXT");
+            }
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS employee_changes (
+                    version INTEGER PRIMARY KEY AUTOINCREMENT,
+                    employee_id INTEGER NOT NULL
+                )""");
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS employees_track_insert AFTER INSERT ON employees
+                BEGIN
+                    INSERT INTO employee_changes(employee_id) VALUES (NEW.id);
+                END""");
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS employees_track_update AFTER UPDATE ON employees
+                BEGIN
+                    INSERT INTO employee_changes(employee_id) VALUES (NEW.id);
+                END""");
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS employees_track_delete AFTER DELETE ON employees
+                BEGIN
+                    INSERT INTO employee_changes(employee_id) VALUES (OLD.id);
+                END""");
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS audit_log (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    changed_at INTEGER NOT NULL,
+                    user TEXT,
+                    employee_id INTEGER NOT NULL,
+                    action TEXT NOT NULL,
+                    field TEXT,
+                    old_value TEXT,
+                    new_value TEXT
+                )""");
+            stmt.execute("CREATE INDEX IF NOT EXISTS audit_log_changed_at ON audit_log(changed_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS audit_log_employee ON audit_log(employee_id, changed_at)");
+            stmt.execute(auditTrigger("INSERT", null, "NEW"));
+            stmt.execute(auditTrigger("UPDATE", "OLD", "NEW"));
+            stmt.execute(auditTrigger("DELETE", "OLD", null));
+
+            // Only the latest change per employee matters to a client catching up,
+            // so older entries can go without affecting any delta.
+            stmt.execute("""
+                DELETE FROM employee_changes WHERE version NOT IN (
+                    SELECT MAX(version) FROM employee_changes GROUP BY employee_id
+                )""");
+        }
+    }
+
+    // Audit rows are written by the trigger inside the edit's own transaction, so the old
+    // values are whatever was actually in the row and the entry commits (or not) with it.
+    private static String auditTrigger(String event, String oldRow, String newRow) {
+        String row = newRow != null ? newRow : oldRow;
+        StringBuilder fields = new StringBuilder();
+        for (String column : AUDITED_COLUMNS) {
+            if (fields.length() > 0) fields.append("\n                      UNION ALL ");
+            fields.append("SELECT '").append(column).append("' AS field, ")
+                  .append(oldRow == null ? "NULL" : oldRow + "." + column).append(" AS old_value, ")
+                  .append(newRow == null ? "NULL" : newRow + "." + column).append(" AS new_value");
         }
+        return "CREATE TRIGGER IF NOT EXISTS employees_audit_" + event.toLowerCase() +
+               " AFTER " + event + " ON employees\n" +
+               "BEGIN\n" +
+               "    INSERT INTO audit_log(changed_at, user, employee_id, action, field, old_value, new_value)\n" +
+               "    SELECT CAST(ROUND((julianday('now') - 2440587.5) * 86400000) AS INTEGER), " +
+               row + ".updated_by, " + row + ".id, '" + event + "', field, old_value, new_value\n" +
+               "    FROM (" + fields + ")\n" +
+               "    WHERE old_value IS NOT new_value;\n" +
+               "END";
+    }
+
+    private static boolean hasColumn(Connection conn, String table, String column) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return true;
+            }
+        }
+        return false;
     }
 
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(DB_URL);
+        return getConnection(ShardRegistry.DEFAULT_SHARD);
+    }
+
+    public static Connection getConnection(String shard) throws SQLException {
+        return DriverManager.getConnection(ShardRegistry.getUrl(shard));
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+import java.util.concurrent.atomic.LongAdder;
+
+// Deductions depend only on base salary and monthly gross pay (which in turn come from
+// rate, hours, overtime and working days), so those two values are the normalized key.
+// The cache is a direct-mapped table of immutable entries: a lookup is one array read with
+// no lock or allocation, and a miss simply replaces whatever shared its slot, which bounds
+// the size without any separate eviction pass.
+public class DeductionCache {
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static volatile Entry[] table = new Entry[DEFAULT_CAPACITY];
+    private static volatile int generation;
+
+    public static Deductions get(double baseSalary, double monthlyGrossPay) {
+        // +0.0 folds -0.0 into 0.0 so both hit the same entry
+        long baseSalaryBits = Double.doubleToLongBits(baseSalary + 0.0);
+        long grossBits = Double.doubleToLongBits(monthlyGrossPay + 0.0);
+        Entry[] entries = table;
+        int slot = slot(baseSalaryBits, grossBits, entries.length);
+        int currentGeneration = generation;
+
+        Entry entry = entries[slot];
+        if (entry != null && entry.generation == currentGeneration
+                && entry.baseSalaryBits == baseSalaryBits && entry.grossBits == grossBits) {
+            hits.increment();
+            return entry.deductions;
+        }
+
+        misses.increment();
+        if (entry != null && entry.generation == currentGeneration) {
+            evictions.increment();
+        }
+        Deductions deductions = Deductions.compute(baseSalary, monthlyGrossPay);
+        entries[slot] = new Entry(baseSalaryBits, grossBits, currentGeneration, deductions);
+        return deductions;
+    }
+
+    // Call whenever the SSS, PhilHealth, Pag-IBIG or tax schedule changes
+    public static synchronized void invalidate() {
+        generation++;
+        table = new Entry[table.length];
+    }
+
+    public static synchronized void setCapacity(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        table = new Entry[size];
+    }
+
+    public static int getCapacity() { return table.length; }
+    public static long getHits() { return hits.sum(); }
+    public static long getMisses() { return misses.sum(); }
+    public static long getEvictions() { return evictions.sum(); }
+
+    public static double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public static int size() {
+        Entry[] entries = table;
+        int currentGeneration = generation;
+        int size = 0;
+        for (Entry entry : entries) {
+            if (entry != null && entry.generation == currentGeneration) size++;
+        }
+        return size;
+    }
+
+    public static void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private static int slot(long baseSalaryBits, long grossBits, int length) {
+        long h = baseSalaryBits * 0x9E3779B97F4A7C15L + grossBits;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 32;
+        return (int) h & (length - 1);
+    }
+
+    private static class Entry {
+        final long baseSalaryBits;
+        final long grossBits;
+        final int generation;
+        final Deductions deductions;
+
+        Entry(long baseSalaryBits, long grossBits, int generation, Deductions deductions) {
+            this.baseSalaryBits = baseSalaryBits;
+            this.grossBits = grossBits;
+            this.generation = generation;
+            this.deductions = deductions;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+public class Deductions {
+    private final double sss;
+    private final double philhealth;
+    private final double pagibig;
+    private final double tax;
+
+    public Deductions(double sss, double philhealth, double pagibig, double tax) {
+        this.sss = sss;
+        this.philhealth = philhealth;
+        this.pagibig = pagibig;
+        this.tax = tax;
+    }
+
+    public double getSss() { return sss; }
+    public double getPhilhealth() { return philhealth; }
+    public double getPagibig() { return pagibig; }
+    public double getTax() { return tax; }
+
+    public static Deductions compute(double baseSalary, double monthlyGrossPay) {
+        double sss;
+        if (baseSalary <= 3250) sss = 135.00;
+        else if (baseSalary <= 3750) sss = 157.50;
+        else if (baseSalary <= 4250) sss = 180.00;
+        else sss = 1125.00;
+        
+        double philhealth = baseSalary * 0.02;
+        double pagibig = Math.min(baseSalary * 0.02, 100);
+        
+        double tax;
+        double taxableIncome = monthlyGrossPay - (sss + philhealth + pagibig);
+        if (taxableIncome <= 20833) tax = 0;
+        else if (taxableIncome <= 33333) tax = (taxableIncome - 20833) * 0.20;
+        else if (taxableIncome <= 66667) tax = 2500 + (taxableIncome - 33333) * 0.25;
+        else if (taxableIncome <= 166667) tax = 10833 + (taxableIncome - 66667) * 0.30;
+        else if (taxableIncome <= 666667) tax = 40833 + (taxableIncome - 166667) * 0.32;
+        else tax = 200833 + (taxableIncome - 666667) * 0.35;
+
+        return new Deductions(sss, philhealth, pagibig, tax);
+    }
+}
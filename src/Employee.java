@@ -1,8 +1,12 @@
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 public class Employee {
+    private static final int PAGE_SIZE = 500;
+
     private int id;
+    private String shard;
     private String name;
     private String position;
     private double baseSalary;
@@ -16,6 +20,11 @@ public class Employee {
     private double tax;
 
     public Employee(String name, String position, double hourlyRate, int workingDays) {
+        this(ShardRegistry.DEFAULT_SHARD, name, position, hourlyRate, workingDays);
+    }
+
+    public Employee(String shard, String name, String position, double hourlyRate, int workingDays) {
+        this.shard = shard;
         this.name = name;
         this.position = position;
         this.hourlyRate = hourlyRate;
@@ -24,7 +33,24 @@ public class Employee {
         computeDeductions();
     }
 
+    public Employee(Employee other) {
+        this.id = other.id;
+        this.shard = other.shard;
+        this.name = other.name;
+        this.position = other.position;
+        this.baseSalary = other.baseSalary;
+        this.hourlyRate = other.hourlyRate;
+        this.hoursWorked = other.hoursWorked;
+        this.overtimeHours = other.overtimeHours;
+        this.workingDays = other.workingDays;
+        this.sss = other.sss;
+        this.philhealth = other.philhealth;
+        this.pagibig = other.pagibig;
+        this.tax = other.tax;
+    }
+
     public int getId() { return id; }
+    public String getShard() { return shard; }
     public String getName() { return name; }
     public String getPosition() { return position; }
     public double getBaseSalary() { return baseSalary; }
@@ -62,22 +88,21 @@ public class Employee {
         computeDeductions();
     }
 
+    public Employee simulate(double hourlyRate, int workingDays) {
+        Employee copy = new Employee(this);
+        copy.hourlyRate = hourlyRate;
+        copy.workingDays = workingDays;
+        copy.baseSalary = hourlyRate * 12 * workingDays * 4;
+        copy.computeDeductions();
+        return copy;
+    }
+
     private void computeDeductions() {
-        if (baseSalary <= 3250) this.sss = 135.00;
-        else if (baseSalary <= 3750) this.sss = 157.50;
-        else if (baseSalary <= 4250) this.sss = 180.00;
-        else this.sss = 1125.00;
-        
-        this.philhealth = baseSalary * 0.02;
-        this.pagibig = Math.min(baseSalary * 0.02, 100);
-        
-        double taxableIncome = calculateMonthlyGrossPay() - (sss + philhealth + pagibig);
-        if (taxableIncome <= 20833) this.tax = 0;
-        else if (taxableIncome <= 33333) this.tax = (taxableIncome - 20833) * 0.20;
-        else if (taxableIncome <= 66667) this.tax = 2500 + (taxableIncome - 33333) * 0.25;
-        else if (taxableIncome <= 166667) this.tax = 10833 + (taxableIncome - 66667) * 0.30;
-        else if (taxableIncome <= 666667) this.tax = 40833 + (taxableIncome - 166667) * 0.32;
-        else this.tax = 200833 + (taxableIncome - 666667) * 0.35;
+        Deductions deductions = DeductionCache.get(baseSalary, calculateMonthlyGrossPay());
+        this.sss = deductions.getSss();
+        this.philhealth = deductions.getPhilhealth();
+        this.pagibig = deductions.getPagibig();
+        this.tax = deductions.getTax();
     }
 
     public double calculateDailyGrossPay() {
@@ -107,9 +132,9 @@ public class Employee {
     public void save() throws SQLException {
         if (id == 0) {
             String sql = "INSERT INTO employees(name, position, hourly_rate, base_salary, " +
-                         "hours_worked, overtime_hours, working_days, sss, philhealth, pagibig, tax) " +
-                         "VALUES(?,?,?,?,?,?,?,?,?,?,?)";
-            try (Connection conn = DatabaseHelper.getConnection();
+                         "hours_worked, overtime_hours, working_days, sss, philhealth, pagibig, tax, updated_by) " +
+                         "VALUES(?,?,?,?,?,?,?,?,?,?,?,?)";
+            try (Connection conn = DatabaseHelper.getConnection(shard);
                  PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, name);
                 pstmt.setString(2, position);
@@ -122,6 +147,7 @@ public class Employee {
                 pstmt.setDouble(9, philhealth);
                 pstmt.setDouble(10, pagibig);
                 pstmt.setDouble(11, tax);
+                pstmt.setString(12, AuditJournal.getUser());
                 pstmt.executeUpdate();
                 
                 try (ResultSet rs = pstmt.getGeneratedKeys()) {
@@ -133,8 +159,8 @@ public class Employee {
         } else {
             String sql = "UPDATE employees SET name = ?, position = ?, hourly_rate = ?, " +
                          "base_salary = ?, hours_worked = ?, overtime_hours = ?, working_days = ?, " +
-                         "sss = ?, philhealth = ?, pagibig = ?, tax = ? WHERE id = ?";
-            try (Connection conn = DatabaseHelper.getConnection();
+                         "sss = ?, philhealth = ?, pagibig = ?, tax = ?, updated_by = ? WHERE id = ?";
+            try (Connection conn = DatabaseHelper.getConnection(shard);
                  PreparedStatement pstmt = conn.prepareStatement(sql)) {
                 pstmt.setString(1, name);
                 pstmt.setString(2, position);
@@ -147,45 +173,125 @@ public class Employee {
                 pstmt.setDouble(9, philhealth);
                 pstmt.setDouble(10, pagibig);
                 pstmt.setDouble(11, tax);
-                pstmt.setInt(12, id);
+                pstmt.setString(12, AuditJournal.getUser());
+                pstmt.setInt(13, id);
                 pstmt.executeUpdate();
             }
         }
     }
 
     public void delete() throws SQLException {
-        String sql = "DELETE FROM employees WHERE id = ?";
-        try (Connection conn = DatabaseHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            pstmt.executeUpdate();
+        // Stamp the deleting user first so the audit trigger can attribute the delete;
+        // both statements commit together.
+        try (Connection conn = DatabaseHelper.getConnection(shard)) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stamp = conn.prepareStatement("UPDATE employees SET updated_by = ? WHERE id = ?");
+                 PreparedStatement pstmt = conn.prepareStatement("DELETE FROM employees WHERE id = ?")) {
+                stamp.setString(1, AuditJournal.getUser());
+                stamp.setInt(2, id);
+                stamp.executeUpdate();
+                pstmt.setInt(1, id);
+                pstmt.executeUpdate();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         }
     }
 
     public static ArrayList<Employee> loadAll() throws SQLException {
+        return loadAll(ShardRegistry.DEFAULT_SHARD);
+    }
+
+    public static ArrayList<Employee> loadAll(String shard) throws SQLException {
         ArrayList<Employee> employees = new ArrayList<>();
         String sql = "SELECT * FROM employees";
-        try (Connection conn = DatabaseHelper.getConnection();
+        try (Connection conn = DatabaseHelper.getConnection(shard);
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             while (rs.next()) {
-                Employee emp = new Employee(
-                    rs.getString("name"),
-                    rs.getString("position"),
-                    rs.getDouble("hourly_rate"),
-                    rs.getInt("working_days")
-                );
-                emp.id = rs.getInt("id");
-                emp.baseSalary = rs.getDouble("base_salary");
-                emp.hoursWorked = rs.getDouble("hours_worked");
-                emp.overtimeHours = rs.getDouble("overtime_hours");
-                emp.sss = rs.getDouble("sss");
-                emp.philhealth = rs.getDouble("philhealth");
-                emp.pagibig = rs.getDouble("pagibig");
-                emp.tax = rs.getDouble("tax");
-                employees.add(emp);
+                employees.add(fromRow(shard, rs));
             }
         }
         return employees;
     }
+
+    // Reads in short pages and only hands rows out after each page's cursor is closed,
+    // so a slow consumer never holds the shared lock that would block writers.
+    public static void forEach(String shard, Consumer<Employee> action) throws SQLException {
+        String sql = "SELECT * FROM employees WHERE id > ? ORDER BY id LIMIT ?";
+        ArrayList<Employee> page = new ArrayList<>(PAGE_SIZE);
+        int lastId = 0;
+        do {
+            page.clear();
+            try (Connection conn = DatabaseHelper.getConnection(shard);
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, lastId);
+                pstmt.setInt(2, PAGE_SIZE);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        page.add(fromRow(shard, rs));
+                    }
+                }
+            }
+            for (Employee emp : page) {
+                action.accept(emp);
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    public static long getDataVersion(String shard) throws SQLException {
+        String sql = "SELECT COALESCE(MAX(version), 0) FROM employee_changes";
+        try (Connection conn = DatabaseHelper.getConnection(shard);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    public static EmployeeChanges loadChangesSince(String shard, long version) throws SQLException {
+        EmployeeChanges changes = new EmployeeChanges(version);
+        String sql = "SELECT c.employee_id AS changed_id, c.version AS change_version, e.* " +
+                     "FROM (SELECT employee_id, MAX(version) AS version FROM employee_changes " +
+                     "WHERE version > ? GROUP BY employee_id) c " +
+                     "LEFT JOIN employees e ON e.id = c.employee_id";
+        try (Connection conn = DatabaseHelper.getConnection(shard);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, version);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    changes.advanceTo(rs.getLong("change_version"));
+                    if (rs.getObject("id") == null) {
+                        changes.addDeleted(rs.getInt("changed_id"));
+                    } else {
+                        changes.addUpdated(fromRow(shard, rs));
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static Employee fromRow(String shard, ResultSet rs) throws SQLException {
+        Employee emp = new Employee(
+            shard,
+            rs.getString("name"),
+            rs.getString("position"),
+            rs.getDouble("hourly_rate"),
+            rs.getInt("working_days")
+        );
+        emp.id = rs.getInt("id");
+        emp.baseSalary = rs.getDouble("base_salary");
+        emp.hoursWorked = rs.getDouble("hours_worked");
+        emp.overtimeHours = rs.getDouble("overtime_hours");
+        emp.sss = rs.getDouble("sss");
+        emp.philhealth = rs.getDouble("philhealth");
+        emp.pagibig = rs.getDouble("pagibig");
+        emp.tax = rs.getDouble("tax");
+        return emp;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeChanges {
+    private long version;
+    private final List<Employee> updated = new ArrayList<>();
+    private final List<Integer> deletedIds = new ArrayList<>();
+
+    public EmployeeChanges(long sinceVersion) {
+        this.version = sinceVersion;
+    }
+
+    public long getVersion() { return version; }
+    public List<Employee> getUpdated() { return updated; }
+    public List<Integer> getDeletedIds() { return deletedIds; }
+
+    public boolean isEmpty() {
+        return updated.isEmpty() && deletedIds.isEmpty();
+    }
+
+    void advanceTo(long changeVersion) {
+        version = Math.max(version, changeVersion);
+    }
+
+    void addUpdated(Employee emp) {
+        updated.add(emp);
+    }
+
+    void addDeleted(int id) {
+        deletedIds.add(id);
+    }
+}
@@ -0,0 +1,135 @@
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Readers get immutable snapshots without locking; every write copies the
+// affected employee, persists it and publishes a new snapshot under one lock.
+// Employees obtained from a snapshot must be treated as read-only.
+public class EmployeeStore {
+    private final String shard;
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(0, new ArrayList<>());
+
+    public EmployeeStore(String shard) {
+        this.shard = shard;
+    }
+
+    public String getShard() { return shard; }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public void reload() throws SQLException {
+        synchronized (writeLock) {
+            long version = Employee.getDataVersion(shard);
+            snapshot = new Snapshot(version, Employee.loadAll(shard));
+        }
+    }
+
+    // Returns the changes applied, or null when the store had to reload everything
+    public EmployeeChanges refresh() throws SQLException {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            long version = Employee.getDataVersion(shard);
+            if (version == current.getVersion()) {
+                return new EmployeeChanges(version);
+            }
+            if (version < current.getVersion()) {
+                reload();
+                return null;
+            }
+
+            EmployeeChanges changes = Employee.loadChangesSince(shard, current.getVersion());
+            List<Employee> employees = new ArrayList<>(current.getEmployees());
+            Map<Integer, Integer> indexById = new HashMap<>(current.indexById);
+            for (Employee emp : changes.getUpdated()) {
+                Integer index = indexById.get(emp.getId());
+                if (index == null) {
+                    indexById.put(emp.getId(), employees.size());
+                    employees.add(emp);
+                } else {
+                    employees.set(index, emp);
+                }
+            }
+            if (!changes.getDeletedIds().isEmpty()) {
+                Set<Integer> deletedIds = new HashSet<>(changes.getDeletedIds());
+                employees.removeIf(emp -> deletedIds.contains(emp.getId()));
+            }
+            snapshot = new Snapshot(changes.getVersion(), employees);
+            return changes;
+        }
+    }
+
+    public Employee add(Employee emp) throws SQLException {
+        synchronized (writeLock) {
+            Employee copy = new Employee(emp);
+            copy.save();
+            Snapshot current = snapshot;
+            List<Employee> employees = new ArrayList<>(current.getEmployees());
+            employees.add(copy);
+            snapshot = new Snapshot(current.getVersion(), employees);
+            return copy;
+        }
+    }
+
+    public Employee edit(int id, Consumer<Employee> change) throws SQLException {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            Integer index = current.indexById.get(id);
+            if (index == null) return null;
+
+            Employee copy = new Employee(current.getEmployees().get(index));
+            change.accept(copy);
+            copy.save();
+            List<Employee> employees = new ArrayList<>(current.getEmployees());
+            employees.set(index, copy);
+            snapshot = new Snapshot(current.getVersion(), employees);
+            return copy;
+        }
+    }
+
+    public boolean delete(int id) throws SQLException {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            Integer index = current.indexById.get(id);
+            if (index == null) return false;
+
+            current.getEmployees().get(index).delete();
+            List<Employee> employees = new ArrayList<>(current.getEmployees());
+            employees.remove((int) index);
+            snapshot = new Snapshot(current.getVersion(), employees);
+            return true;
+        }
+    }
+
+    public static class Snapshot {
+        private final long version;
+        private final List<Employee> employees;
+        private final Map<Integer, Integer> indexById;
+
+        private Snapshot(long version, List<Employee> employees) {
+            this.version = version;
+            this.employees = Collections.unmodifiableList(employees);
+            this.indexById = new HashMap<>(employees.size() * 2);
+            for (int i = 0; i < employees.size(); i++) {
+                indexById.put(employees.get(i).getId(), i);
+            }
+        }
+
+        public long getVersion() { return version; }
+        public List<Employee> getEmployees() { return employees; }
+        public int size() { return employees.size(); }
+
+        public Employee find(int id) {
+            Integer index = indexById.get(id);
+            return index == null ? null : employees.get(index);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+public class HtmlReportBuffer extends ReportBuffer {
+
+    public HtmlReportBuffer() {
+        super();
+    }
+
+    public HtmlReportBuffer(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public ReportBuffer appendText(String text) {
+        if (text == null) return append("null");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': append("&lt;"); break;
+                case '>': append("&gt;"); break;
+                case '&': append("&amp;"); break;
+                case '"': append("&quot;"); break;
+                default: append(c);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void beginLine(int indent, String label) {
+        append("<tr><td style=\"padding-left:").appendLong(indent).append("em\">");
+        appendText(label).append("</td><td>");
+    }
+
+    @Override
+    public void endLine() {
+        append("</td></tr>\n");
+    }
+
+    @Override
+    public void section(int indent, String label) {
+        append("<tr><td style=\"padding-left:").appendLong(indent).append("em\">");
+        appendText(label).append(":</td><td></td></tr>\n");
+    }
+
+    @Override
+    public void blankLine() {
+    }
+}
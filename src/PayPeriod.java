@@ -0,0 +1,45 @@
+public enum PayPeriod {
+    DAILY("Daily"),
+    WEEKLY("Weekly"),
+    MONTHLY("Monthly");
+
+    private final String label;
+
+    PayPeriod(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+
+    public double grossPay(Employee emp) {
+        switch (this) {
+            case DAILY: return emp.calculateDailyGrossPay();
+            case WEEKLY: return emp.calculateWeeklyGrossPay();
+            default: return emp.calculateMonthlyGrossPay();
+        }
+    }
+
+    public double netPay(Employee emp) {
+        switch (this) {
+            case DAILY: return emp.calculateDailyNetPay();
+            case WEEKLY: return emp.calculateWeeklyNetPay();
+            default: return emp.calculateMonthlyNetPay();
+        }
+    }
+
+    public double share(Employee emp, double monthlyAmount) {
+        switch (this) {
+            case DAILY: return monthlyAmount / (emp.getWorkingDays() * 4);
+            case WEEKLY: return monthlyAmount / 4;
+            default: return monthlyAmount;
+        }
+    }
+
+    public double deductions(Employee emp) {
+        return share(emp, emp.getSss() + emp.getPhilhealth() + emp.getPagibig() + emp.getTax());
+    }
+
+    public double tax(Employee emp) {
+        return share(emp, emp.getTax());
+    }
+}
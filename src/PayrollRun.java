@@ -0,0 +1,59 @@
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class PayrollRun {
+
+    public static PayrollTotals run(PayPeriod period) throws SQLException {
+        return merge(runPerShard(period, ShardRegistry.getShards()));
+    }
+
+    public static Map<String, PayrollTotals> runPerShard(PayPeriod period, List<String> shards) throws SQLException {
+        Map<String, PayrollTotals> results = new LinkedHashMap<>();
+        if (shards.isEmpty()) return results;
+
+        int threads = Math.min(shards.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<String, Future<PayrollTotals>> futures = new LinkedHashMap<>();
+            for (String shard : shards) {
+                futures.put(shard, executor.submit(() -> runShard(period, shard)));
+            }
+            for (Map.Entry<String, Future<PayrollTotals>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Payroll run interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Payroll run failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    public static PayrollTotals runShard(PayPeriod period, String shard) throws SQLException {
+        PayrollTotals totals = new PayrollTotals();
+        for (Employee emp : Employee.loadAll(shard)) {
+            totals.add(period, emp);
+        }
+        return totals;
+    }
+
+    public static PayrollTotals merge(Map<String, PayrollTotals> perShard) {
+        PayrollTotals total = new PayrollTotals();
+        for (PayrollTotals totals : perShard.values()) {
+            total.merge(totals);
+        }
+        return total;
+    }
+}
@@ -3,15 +3,19 @@ import javax.swing.border.*;
 import javax.swing.table.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.nio.file.Path;
 import java.sql.SQLException;
-import java.text.DecimalFormat;
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class PayrollSystemGUI extends JFrame {
-    private ArrayList<Employee> employees;
+    private static final int CHANGE_POLL_INTERVAL_MS = 3000;
+
+    private final EmployeeStore employeeStore = new EmployeeStore(ShardRegistry.DEFAULT_SHARD);
     private JTabbedPane tabbedPane;
     private JTable employeeTable;
-    private DecimalFormat pesoFormat = new DecimalFormat("₱###,###.##");
+    private DefaultTableModel employeeTableModel;
     private Font customFont = new Font("Segoe UI", Font.PLAIN, 14);
     private Color primaryColor = new Color(0, 102, 204);
     private Color secondaryColor = new Color(240, 240, 240);
@@ -24,16 +28,16 @@ public class PayrollSystemGUI extends JFrame {
         
         initializeDatabase();
         initUI();
-        refreshEmployeeList();
+        populateEmployeeTable();
+        new Timer(CHANGE_POLL_INTERVAL_MS, e -> pollEmployeeChanges()).start();
     }
 
     private void initializeDatabase() {
         DatabaseHelper.initializeDatabase();
         try {
-            employees = Employee.loadAll();
+            employeeStore.reload();
         } catch (SQLException e) {
             showError("Error loading employees: " + e.getMessage());
-            employees = new ArrayList<>();
         }
     }
 
@@ -154,9 +158,7 @@ public class PayrollSystemGUI extends JFrame {
                     return;
                 }
 
-                Employee emp = new Employee(name, position, hourlyRate, workingDays);
-                emp.save();
-                employees.add(emp);
+                Employee emp = employeeStore.add(new Employee(name, position, hourlyRate, workingDays));
                 refreshEmployeeList();
                 
                 statusLabel.setText("Employee added successfully! ID: " + emp.getId());
@@ -187,6 +189,7 @@ public class PayrollSystemGUI extends JFrame {
         buttonPanel.add(createStyledButton("Edit Hours", accentColor, e -> editEmployeeHours()));
         buttonPanel.add(createStyledButton("Edit Overtime", accentColor, e -> editEmployeeOvertime()));
         buttonPanel.add(createStyledButton("Edit Working Days", accentColor, e -> editWorkingDays()));
+        buttonPanel.add(createStyledButton("History", primaryColor, e -> showEmployeeHistory()));
         buttonPanel.add(createStyledButton("Delete", new Color(204, 0, 0), e -> deleteSelectedEmployee()));
         
         panel.add(scrollPane, BorderLayout.CENTER);
@@ -199,15 +202,16 @@ public class PayrollSystemGUI extends JFrame {
         panel.setOpaque(false);
         
         JTabbedPane payrollTabs = new JTabbedPane();
-        payrollTabs.addTab("Daily Payroll", createDailyPayrollPanel());
-        payrollTabs.addTab("Weekly Payroll", createWeeklyPayrollPanel());
-        payrollTabs.addTab("Monthly Payroll", createMonthlyPayrollPanel());
+        for (StandardReportTemplate template : StandardReportTemplate.values()) {
+            payrollTabs.addTab(template.getPeriod().getLabel() + " Payroll", createPayrollReportPanel(template));
+        }
         
         panel.add(payrollTabs, BorderLayout.CENTER);
+        panel.add(createStyledButton("Generate Payslips", accentColor, e -> generatePayslips()), BorderLayout.SOUTH);
         return panel;
     }
 
-    private JPanel createDailyPayrollPanel() {
+    private JPanel createPayrollReportPanel(ReportTemplate template) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setOpaque(false);
         
@@ -215,134 +219,55 @@ public class PayrollSystemGUI extends JFrame {
         payrollArea.setFont(customFont);
         payrollArea.setEditable(false);
         
+        String label = template.getPeriod().getLabel();
         JScrollPane scrollPane = new JScrollPane(payrollArea);
-        scrollPane.setBorder(createTitledBorder("Daily Payroll Results"));
+        scrollPane.setBorder(createTitledBorder(label + " Payroll Results"));
         
-        JButton processButton = createStyledButton("Calculate Daily Payroll", primaryColor, e -> {
-            payrollArea.setText("===== DAILY PAYROLL REPORT =====\n\n");
-            double totalGross = 0, totalDeductions = 0, totalNet = 0;
-            
-            for (Employee emp : employees) {
-                payrollArea.append(String.format("%-20s (ID: %d)\n", emp.getName(), emp.getId()));
-                payrollArea.append(String.format("  Position: %s\n", emp.getPosition()));
-                payrollArea.append(String.format("  Hourly Rate: %s\n", pesoFormat.format(emp.getHourlyRate())));
-                payrollArea.append(String.format("  Regular Hours: %.2f\n", emp.getHoursWorked()));
-                payrollArea.append(String.format("  Overtime Hours: %.2f\n", emp.getOvertimeHours()));
-                payrollArea.append(String.format("  Daily Gross Pay: %s\n", pesoFormat.format(emp.calculateDailyGrossPay())));
-                payrollArea.append("  Daily Deductions:\n");
-                payrollArea.append(String.format("    SSS: %s\n", pesoFormat.format(emp.getSss()/(emp.getWorkingDays()*4))));
-                payrollArea.append(String.format("    PhilHealth: %s\n", pesoFormat.format(emp.getPhilhealth()/(emp.getWorkingDays()*4))));
-                payrollArea.append(String.format("    Pag-IBIG: %s\n", pesoFormat.format(emp.getPagibig()/(emp.getWorkingDays()*4))));
-                payrollArea.append(String.format("    Tax: %s\n", pesoFormat.format(emp.getTax()/(emp.getWorkingDays()*4))));
-                payrollArea.append(String.format("  DAILY NET PAY: %s\n\n", pesoFormat.format(emp.calculateDailyNetPay())));
-                
-                totalGross += emp.calculateDailyGrossPay();
-                totalDeductions += (emp.getSss()/(emp.getWorkingDays()*4) + emp.getPhilhealth()/(emp.getWorkingDays()*4) + 
-                                  emp.getPagibig()/(emp.getWorkingDays()*4) + emp.getTax()/(emp.getWorkingDays()*4));
-                totalNet += emp.calculateDailyNetPay();
-            }
-            
-            payrollArea.append("\n======================\n");
-            payrollArea.append(String.format("TOTAL DAILY GROSS PAYROLL: %s\n", pesoFormat.format(totalGross)));
-            payrollArea.append(String.format("TOTAL DAILY DEDUCTIONS: %s\n", pesoFormat.format(totalDeductions)));
-            payrollArea.append(String.format("TOTAL DAILY NET PAYROLL: %s", pesoFormat.format(totalNet)));
-        });
+        JButton processButton = createStyledButton("Calculate " + label + " Payroll", primaryColor, e ->
+            payrollArea.setText(ReportRenderer.render(template, employeeStore.snapshot().getEmployees()))
+        );
         
         panel.add(scrollPane, BorderLayout.CENTER);
         panel.add(processButton, BorderLayout.SOUTH);
         return panel;
     }
 
-    private JPanel createWeeklyPayrollPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setOpaque(false);
-        
-        JTextArea payrollArea = new JTextArea();
-        payrollArea.setFont(customFont);
-        payrollArea.setEditable(false);
-        
-        JScrollPane scrollPane = new JScrollPane(payrollArea);
-        scrollPane.setBorder(createTitledBorder("Weekly Payroll Results"));
-        
-        JButton processButton = createStyledButton("Calculate Weekly Payroll", primaryColor, e -> {
-            payrollArea.setText("===== WEEKLY PAYROLL REPORT =====\n\n");
-            double totalGross = 0, totalDeductions = 0, totalNet = 0;
-            
-            for (Employee emp : employees) {
-                payrollArea.append(String.format("%-20s (ID: %d)\n", emp.getName(), emp.getId()));
-                payrollArea.append(String.format("  Position: %s\n", emp.getPosition()));
-                payrollArea.append(String.format("  Hourly Rate: %s\n", pesoFormat.format(emp.getHourlyRate())));
-                payrollArea.append(String.format("  Regular Hours: %.2f/day\n", emp.getHoursWorked()));
-                payrollArea.append(String.format("  Overtime Hours: %.2f/week\n", emp.getOvertimeHours()*emp.getWorkingDays()));
-                payrollArea.append(String.format("  Working Days: %d days\n", emp.getWorkingDays()));
-                payrollArea.append(String.format("  Weekly Gross Pay: %s\n", pesoFormat.format(emp.calculateWeeklyGrossPay())));
-                payrollArea.append("  Weekly Deductions:\n");
-                payrollArea.append(String.format("    SSS: %s\n", pesoFormat.format(emp.getSss()/4)));
-                payrollArea.append(String.format("    PhilHealth: %s\n", pesoFormat.format(emp.getPhilhealth()/4)));
-                payrollArea.append(String.format("    Pag-IBIG: %s\n", pesoFormat.format(emp.getPagibig()/4)));
-                payrollArea.append(String.format("    Tax: %s\n", pesoFormat.format(emp.getTax()/4)));
-                payrollArea.append(String.format("  WEEKLY NET PAY: %s\n\n", pesoFormat.format(emp.calculateWeeklyNetPay())));
-                
-                totalGross += emp.calculateWeeklyGrossPay();
-                totalDeductions += (emp.getSss()/4 + emp.getPhilhealth()/4 + emp.getPagibig()/4 + emp.getTax()/4);
-                totalNet += emp.calculateWeeklyNetPay();
+    private void generatePayslips() {
+        PayPeriod period = (PayPeriod) JOptionPane.showInputDialog(
+            this, "Select pay period:", "Generate Payslips",
+            JOptionPane.QUESTION_MESSAGE, null, PayPeriod.values(), PayPeriod.MONTHLY
+        );
+        if (period == null) return;
+
+        PayslipFormat format = (PayslipFormat) JOptionPane.showInputDialog(
+            this, "Select payslip format:", "Generate Payslips",
+            JOptionPane.QUESTION_MESSAGE, null, PayslipFormat.values(), PayslipFormat.TEXT
+        );
+        if (format == null) return;
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Select Payslip Folder");
+        chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path outputDir = chooser.getSelectedFile().toPath();
+
+        new SwingWorker<PayslipMetrics, Void>() {
+            @Override
+            protected PayslipMetrics doInBackground() throws Exception {
+                return new PayslipPipeline(List.of(employeeStore.getShard()), period, format, outputDir).run();
             }
-            
-            payrollArea.append("\n======================\n");
-            payrollArea.append(String.format("TOTAL WEEKLY GROSS PAYROLL: %s\n", pesoFormat.format(totalGross)));
-            payrollArea.append(String.format("TOTAL WEEKLY DEDUCTIONS: %s\n", pesoFormat.format(totalDeductions)));
-            payrollArea.append(String.format("TOTAL WEEKLY NET PAYROLL: %s", pesoFormat.format(totalNet)));
-        });
-        
-        panel.add(scrollPane, BorderLayout.CENTER);
-        panel.add(processButton, BorderLayout.SOUTH);
-        return panel;
-    }
 
-    private JPanel createMonthlyPayrollPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setOpaque(false);
-        
-        JTextArea payrollArea = new JTextArea();
-        payrollArea.setFont(customFont);
-        payrollArea.setEditable(false);
-        
-        JScrollPane scrollPane = new JScrollPane(payrollArea);
-        scrollPane.setBorder(createTitledBorder("Monthly Payroll Results"));
-        
-        JButton processButton = createStyledButton("Calculate Monthly Payroll", primaryColor, e -> {
-            payrollArea.setText("===== MONTHLY PAYROLL REPORT =====\n\n");
-            double totalGross = 0, totalDeductions = 0, totalNet = 0;
-            
-            for (Employee emp : employees) {
-                payrollArea.append(String.format("%-20s (ID: %d)\n", emp.getName(), emp.getId()));
-                payrollArea.append(String.format("  Position: %s\n", emp.getPosition()));
-                payrollArea.append(String.format("  Hourly Rate: %s\n", pesoFormat.format(emp.getHourlyRate())));
-                payrollArea.append(String.format("  Regular Hours: %.2f/day\n", emp.getHoursWorked()));
-                payrollArea.append(String.format("  Overtime Hours: %.2f/month\n", emp.getOvertimeHours()*emp.getWorkingDays()*4));
-                payrollArea.append(String.format("  Working Days: %d days/week\n", emp.getWorkingDays()));
-                payrollArea.append(String.format("  Monthly Gross Pay: %s\n", pesoFormat.format(emp.calculateMonthlyGrossPay())));
-                payrollArea.append("  Monthly Deductions:\n");
-                payrollArea.append(String.format("    SSS: %s\n", pesoFormat.format(emp.getSss())));
-                payrollArea.append(String.format("    PhilHealth: %s\n", pesoFormat.format(emp.getPhilhealth())));
-                payrollArea.append(String.format("    Pag-IBIG: %s\n", pesoFormat.format(emp.getPagibig())));
-                payrollArea.append(String.format("    Tax: %s\n", pesoFormat.format(emp.getTax())));
-                payrollArea.append(String.format("  MONTHLY NET PAY: %s\n\n", pesoFormat.format(emp.calculateMonthlyNetPay())));
-                
-                totalGross += emp.calculateMonthlyGrossPay();
-                totalDeductions += (emp.getSss() + emp.getPhilhealth() + emp.getPagibig() + emp.getTax());
-                totalNet += emp.calculateMonthlyNetPay();
+            @Override
+            protected void done() {
+                try {
+                    showMessage("Payslips generated: " + get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    showError("Error generating payslips: " + e.getCause().getMessage());
+                }
             }
-            
-            payrollArea.append("\n======================\n");
-            payrollArea.append(String.format("TOTAL MONTHLY GROSS PAYROLL: %s\n", pesoFormat.format(totalGross)));
-            payrollArea.append(String.format("TOTAL MONTHLY DEDUCTIONS: %s\n", pesoFormat.format(totalDeductions)));
-            payrollArea.append(String.format("TOTAL MONTHLY NET PAYROLL: %s", pesoFormat.format(totalNet)));
-        });
-        
-        panel.add(scrollPane, BorderLayout.CENTER);
-        panel.add(processButton, BorderLayout.SOUTH);
-        return panel;
+        }.execute();
     }
 
     private void editWorkingDays() {
@@ -372,15 +297,14 @@ public class PayrollSystemGUI extends JFrame {
                     continue;
                 }
 
-                for (Employee emp : employees) {
-                    if (emp.getId() == id) {
-                        emp.setWorkingDays(days);
-                        emp.save();
-                        refreshEmployeeList();
-                        showMessage("Working days updated successfully");
-                        return;
-                    }
+                if (employeeStore.edit(id, emp -> emp.setWorkingDays(days)) == null) {
+                    showError("Employee no longer exists");
+                    refreshEmployeeList();
+                    return;
                 }
+                refreshEmployeeList();
+                showMessage("Working days updated successfully");
+                return;
             } catch (NumberFormatException e) {
                 showError("Please enter a valid number");
             } catch (IllegalArgumentException e) {
@@ -392,33 +316,81 @@ public class PayrollSystemGUI extends JFrame {
         }
     }
 
+    private void populateEmployeeTable() {
+        employeeTableModel = new DefaultTableModel(
+            new String[]{"ID", "Name", "Position", "Hourly Rate", "Regular Hours", "Overtime", "Working Days"}, 0
+        ) {
+            public boolean isCellEditable(int row, int column) { return false; }
+        };
+
+        for (Employee emp : employeeStore.snapshot().getEmployees()) {
+            employeeTableModel.addRow(toTableRow(emp));
+        }
+
+        employeeTable.setModel(employeeTableModel);
+    }
+
     private void refreshEmployeeList() {
         try {
-            employees = Employee.loadAll();
-            DefaultTableModel model = new DefaultTableModel(
-                new String[]{"ID", "Name", "Position", "Hourly Rate", "Regular Hours", "Overtime", "Working Days"}, 0
-            ) {
-                public boolean isCellEditable(int row, int column) { return false; }
-            };
-
-            for (Employee emp : employees) {
-                model.addRow(new Object[]{
-                    emp.getId(),
-                    emp.getName(),
-                    emp.getPosition(),
-                    pesoFormat.format(emp.getHourlyRate()),
-                    emp.getHoursWorked(),
-                    emp.getOvertimeHours(),
-                    emp.getWorkingDays()
-                });
-            }
-
-            employeeTable.setModel(model);
+            applyEmployeeChanges();
         } catch (SQLException e) {
             showError("Error loading employees: " + e.getMessage());
         }
     }
 
+    private void pollEmployeeChanges() {
+        try {
+            applyEmployeeChanges();
+        } catch (SQLException e) {
+            // Transient (e.g. another instance holds the write lock); retried on the next poll
+        }
+    }
+
+    private void applyEmployeeChanges() throws SQLException {
+        EmployeeChanges changes = employeeStore.refresh();
+        if (changes == null) {
+            populateEmployeeTable();
+            return;
+        }
+
+        for (Employee emp : changes.getUpdated()) {
+            int row = findTableRow(emp.getId());
+            if (row == -1) {
+                employeeTableModel.addRow(toTableRow(emp));
+            } else {
+                Object[] values = toTableRow(emp);
+                for (int column = 0; column < values.length; column++) {
+                    employeeTableModel.setValueAt(values[column], row, column);
+                }
+            }
+        }
+        for (int id : changes.getDeletedIds()) {
+            int row = findTableRow(id);
+            if (row != -1) {
+                employeeTableModel.removeRow(row);
+            }
+        }
+    }
+
+    private int findTableRow(int id) {
+        for (int row = 0; row < employeeTableModel.getRowCount(); row++) {
+            if ((int) employeeTableModel.getValueAt(row, 0) == id) return row;
+        }
+        return -1;
+    }
+
+    private Object[] toTableRow(Employee emp) {
+        return new Object[]{
+            emp.getId(),
+            emp.getName(),
+            emp.getPosition(),
+            ReportRenderer.formatPeso(emp.getHourlyRate()),
+            emp.getHoursWorked(),
+            emp.getOvertimeHours(),
+            emp.getWorkingDays()
+        };
+    }
+
     private void deleteSelectedEmployee() {
         int selectedRow = employeeTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -428,24 +400,51 @@ public class PayrollSystemGUI extends JFrame {
 
         int id = (int) employeeTable.getValueAt(selectedRow, 0);
         try {
-            for (Employee emp : employees) {
-                if (emp.getId() == id) {
-                    if (JOptionPane.showConfirmDialog(this, 
-                        "Delete employee " + emp.getName() + "?", 
-                        "Confirm Delete", JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
-                        emp.delete();
-                        employees.remove(emp);
-                        refreshEmployeeList();
-                        showMessage("Employee deleted successfully");
-                    }
-                    return;
-                }
+            Employee emp = employeeStore.snapshot().find(id);
+            if (emp == null) return;
+            if (JOptionPane.showConfirmDialog(this, 
+                "Delete employee " + emp.getName() + "?", 
+                "Confirm Delete", JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
+                employeeStore.delete(id);
+                refreshEmployeeList();
+                showMessage("Employee deleted successfully");
             }
         } catch (SQLException e) {
             showError("Error deleting employee: " + e.getMessage());
         }
     }
 
+    private void showEmployeeHistory() {
+        int selectedRow = employeeTable.getSelectedRow();
+        if (selectedRow == -1) {
+            showError("Please select an employee");
+            return;
+        }
+
+        int id = (int) employeeTable.getValueAt(selectedRow, 0);
+        String name = (String) employeeTable.getValueAt(selectedRow, 1);
+        try {
+            List<AuditEntry> entries = AuditJournal.queryEmployee(employeeStore.getShard(), id);
+            StringBuilder history = new StringBuilder();
+            for (AuditEntry entry : entries) {
+                history.append(String.format("%-23s  %-12s %-6s  %-14s %s -> %s\n",
+                    new Timestamp(entry.getTimestamp()), entry.getUser(), entry.getAction(),
+                    entry.getField(), entry.getOldValue(), entry.getNewValue()));
+            }
+            if (entries.isEmpty()) {
+                history.append("No recorded changes");
+            }
+
+            JTextArea historyArea = new JTextArea(history.toString(), 20, 90);
+            historyArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+            historyArea.setEditable(false);
+            JOptionPane.showMessageDialog(this, new JScrollPane(historyArea),
+                "Change History - " + name, JOptionPane.PLAIN_MESSAGE);
+        } catch (SQLException e) {
+            showError("Error loading history: " + e.getMessage());
+        }
+    }
+
     private void editEmployeeHours() {
         int selectedRow = employeeTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -473,15 +472,14 @@ public class PayrollSystemGUI extends JFrame {
                     continue;
                 }
 
-                for (Employee emp : employees) {
-                    if (emp.getId() == id) {
-                        emp.setHoursWorked(hours);
-                        emp.save();
-                        refreshEmployeeList();
-                        showMessage("Regular hours updated successfully");
-                        return;
-                    }
+                if (employeeStore.edit(id, emp -> emp.setHoursWorked(hours)) == null) {
+                    showError("Employee no longer exists");
+                    refreshEmployeeList();
+                    return;
                 }
+                refreshEmployeeList();
+                showMessage("Regular hours updated successfully");
+                return;
             } catch (NumberFormatException e) {
                 showError("Please enter a valid number");
             } catch (IllegalArgumentException e) {
@@ -520,15 +518,14 @@ public class PayrollSystemGUI extends JFrame {
                     continue;
                 }
 
-                for (Employee emp : employees) {
-                    if (emp.getId() == id) {
-                        emp.setOvertimeHours(hours);
-                        emp.save();
-                        refreshEmployeeList();
-                        showMessage("Overtime hours updated successfully");
-                        return;
-                    }
+                if (employeeStore.edit(id, emp -> emp.setOvertimeHours(hours)) == null) {
+                    showError("Employee no longer exists");
+                    refreshEmployeeList();
+                    return;
                 }
+                refreshEmployeeList();
+                showMessage("Overtime hours updated successfully");
+                return;
             } catch (NumberFormatException e) {
                 showError("Please enter a valid number");
             } catch (IllegalArgumentException e) {
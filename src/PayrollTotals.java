@@ -0,0 +1,29 @@
+public class PayrollTotals {
+    private int employeeCount;
+    private double gross;
+    private double deductions;
+    private double tax;
+    private double net;
+
+    public int getEmployeeCount() { return employeeCount; }
+    public double getGross() { return gross; }
+    public double getDeductions() { return deductions; }
+    public double getTax() { return tax; }
+    public double getNet() { return net; }
+
+    public void add(PayPeriod period, Employee emp) {
+        employeeCount++;
+        gross += period.grossPay(emp);
+        deductions += period.deductions(emp);
+        tax += period.tax(emp);
+        net += period.netPay(emp);
+    }
+
+    public void merge(PayrollTotals other) {
+        employeeCount += other.employeeCount;
+        gross += other.gross;
+        deductions += other.deductions;
+        tax += other.tax;
+        net += other.net;
+    }
+}
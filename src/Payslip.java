@@ -0,0 +1,12 @@
+public class Payslip {
+    private final String fileName;
+    private final String content;
+
+    public Payslip(String fileName, String content) {
+        this.fileName = fileName;
+        this.content = content;
+    }
+
+    public String getFileName() { return fileName; }
+    public String getContent() { return content; }
+}
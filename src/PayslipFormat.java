@@ -0,0 +1,12 @@
+public enum PayslipFormat {
+    TEXT(".txt"),
+    HTML(".html");
+
+    private final String extension;
+
+    PayslipFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() { return extension; }
+}
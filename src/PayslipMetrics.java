@@ -0,0 +1,34 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PayslipMetrics {
+    final AtomicLong employeesRead = new AtomicLong();
+    final AtomicLong payslipsRendered = new AtomicLong();
+    final AtomicLong payslipsWritten = new AtomicLong();
+    final AtomicLong bytesWritten = new AtomicLong();
+    final AtomicLong batchesWritten = new AtomicLong();
+    final AtomicLong producerBlockedNanos = new AtomicLong();
+    final AtomicLong rendererBlockedNanos = new AtomicLong();
+    volatile long elapsedNanos;
+
+    public long getEmployeesRead() { return employeesRead.get(); }
+    public long getPayslipsRendered() { return payslipsRendered.get(); }
+    public long getPayslipsWritten() { return payslipsWritten.get(); }
+    public long getBytesWritten() { return bytesWritten.get(); }
+    public long getBatchesWritten() { return batchesWritten.get(); }
+    public double getProducerBlockedSeconds() { return producerBlockedNanos.get() / 1e9; }
+    public double getRendererBlockedSeconds() { return rendererBlockedNanos.get() / 1e9; }
+    public double getElapsedSeconds() { return elapsedNanos / 1e9; }
+
+    public double getPayslipsPerSecond() {
+        return elapsedNanos == 0 ? 0 : payslipsWritten.get() / getElapsedSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d payslips written in %.2f s (%.0f/s, %d batches, %d bytes); " +
+            "producer blocked %.2f s, renderers blocked %.2f s",
+            getPayslipsWritten(), getElapsedSeconds(), getPayslipsPerSecond(), getBatchesWritten(),
+            getBytesWritten(), getProducerBlockedSeconds(), getRendererBlockedSeconds());
+    }
+}
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PayslipPipeline {
+    private static final Employee END_OF_EMPLOYEES = new Employee("", "", 0, 1);
+    private static final Payslip END_OF_PAYSLIPS = new Payslip(null, null);
+
+    private final List<String> shards;
+    private final PayPeriod period;
+    private final PayslipFormat format;
+    private final Path outputDir;
+    private final int workers;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    public PayslipPipeline(List<String> shards, PayPeriod period, PayslipFormat format, Path outputDir) {
+        this(shards, period, format, outputDir, Runtime.getRuntime().availableProcessors(), 256, 64);
+    }
+
+    public PayslipPipeline(List<String> shards, PayPeriod period, PayslipFormat format, Path outputDir,
+                           int workers, int queueCapacity, int batchSize) {
+        if (workers < 1 || queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Workers, queue capacity and batch size must be positive");
+        }
+        this.shards = shards;
+        this.period = period;
+        this.format = format;
+        this.outputDir = outputDir;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public PayslipMetrics run() throws SQLException, IOException, InterruptedException {
+        Files.createDirectories(outputDir);
+
+        PayslipMetrics metrics = new PayslipMetrics();
+        BlockingQueue<Employee> employeeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Payslip> payslipQueue = new ArrayBlockingQueue<>(queueCapacity);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 2);
+        CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        try {
+            stages.submit(() -> {
+                produce(employeeQueue, metrics);
+                return null;
+            });
+            for (int i = 0; i < workers; i++) {
+                stages.submit(() -> {
+                    render(employeeQueue, payslipQueue, metrics);
+                    return null;
+                });
+            }
+            stages.submit(() -> {
+                write(payslipQueue, metrics);
+                return null;
+            });
+
+            // The first stage to fail completes first; the finally block then cancels the rest
+            for (int i = 0; i < workers + 2; i++) {
+                stages.take().get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) throw (SQLException) cause;
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof InterruptedException) throw (InterruptedException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException("Payslip generation failed", cause);
+        } finally {
+            executor.shutdownNow();
+            metrics.elapsedNanos = System.nanoTime() - start;
+        }
+        return metrics;
+    }
+
+    private void produce(BlockingQueue<Employee> employeeQueue, PayslipMetrics metrics)
+            throws SQLException, InterruptedException {
+        try {
+            for (String shard : shards) {
+                Employee.forEach(shard, emp -> {
+                    try {
+                        put(employeeQueue, emp, metrics.producerBlockedNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CancellationException("Payslip generation cancelled");
+                    }
+                    metrics.employeesRead.incrementAndGet();
+                });
+            }
+        } catch (CancellationException e) {
+            throw new InterruptedException(e.getMessage());
+        }
+        for (int i = 0; i < workers; i++) {
+            employeeQueue.put(END_OF_EMPLOYEES);
+        }
+    }
+
+    private void render(BlockingQueue<Employee> employeeQueue, BlockingQueue<Payslip> payslipQueue,
+                        PayslipMetrics metrics) throws InterruptedException {
+        PayslipRenderer renderer = new PayslipRenderer(period, format);
+        while (true) {
+            Employee emp = employeeQueue.take();
+            if (emp == END_OF_EMPLOYEES) break;
+            put(payslipQueue, renderer.render(emp), metrics.rendererBlockedNanos);
+            metrics.payslipsRendered.incrementAndGet();
+        }
+        payslipQueue.put(END_OF_PAYSLIPS);
+    }
+
+    private void write(BlockingQueue<Payslip> payslipQueue, PayslipMetrics metrics)
+            throws IOException, InterruptedException {
+        List<Payslip> batch = new ArrayList<>(batchSize);
+        int finishedWorkers = 0;
+        while (finishedWorkers < workers) {
+            batch.add(payslipQueue.take());
+            payslipQueue.drainTo(batch, batchSize - 1);
+
+            for (Payslip payslip : batch) {
+                if (payslip == END_OF_PAYSLIPS) {
+                    finishedWorkers++;
+                    continue;
+                }
+                byte[] bytes = payslip.getContent().getBytes(StandardCharsets.UTF_8);
+                Files.write(outputDir.resolve(payslip.getFileName()), bytes);
+                metrics.payslipsWritten.incrementAndGet();
+                metrics.bytesWritten.addAndGet(bytes.length);
+            }
+            metrics.batchesWritten.incrementAndGet();
+            batch.clear();
+        }
+    }
+
+    private static <T> void put(BlockingQueue<T> queue, T item, AtomicLong blockedNanos)
+            throws InterruptedException {
+        if (queue.offer(item)) return;
+        long start = System.nanoTime();
+        queue.put(item);
+        blockedNanos.addAndGet(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,33 @@
+public class PayslipRenderer {
+    private final PayPeriod period;
+    private final PayslipFormat format;
+    private final ReportTemplate template;
+    private final ReportBuffer out;
+
+    public PayslipRenderer(PayPeriod period, PayslipFormat format) {
+        this.period = period;
+        this.format = format;
+        this.template = StandardReportTemplate.forPeriod(period);
+        this.out = format == PayslipFormat.HTML ? new HtmlReportBuffer(2048) : new ReportBuffer(1024);
+    }
+
+    public Payslip render(Employee emp) {
+        out.reset();
+        String title = period.getLabel().toUpperCase() + " PAYSLIP";
+        if (format == PayslipFormat.HTML) {
+            out.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>")
+               .append(title).append("</title></head>\n<body>\n<h2>")
+               .append(title).append("</h2>\n<h3>")
+               .appendText(emp.getName()).append(" (ID: ").appendLong(emp.getId()).append(")</h3>\n<table>\n");
+            template.renderBreakdown(out, emp);
+            out.append("</table>\n</body></html>\n");
+        } else {
+            out.append("===== ").append(title).append(" =====\n\n")
+               .appendText(emp.getName()).append(" (ID: ").appendLong(emp.getId()).append(")\n");
+            template.renderBreakdown(out, emp);
+        }
+
+        String fileName = emp.getShard() + "_" + emp.getId() + "_" + period.name().toLowerCase() + format.getExtension();
+        return new Payslip(fileName, out.toString());
+    }
+}
@@ -0,0 +1,187 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+
+// Growable char buffer with allocation-free number formatting. Not thread-safe;
+// keep one per thread (see ReportRenderer) and reset() it between uses.
+public class ReportBuffer {
+    private static final char PESO = '₱';
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000};
+    private static final double FAST_PATH_LIMIT = 1e12;
+
+    private char[] chars;
+    private int length;
+    private final char[] digits = new char[32];
+
+    public ReportBuffer() {
+        this(4096);
+    }
+
+    public ReportBuffer(int capacity) {
+        this.chars = new char[Math.max(capacity, 16)];
+    }
+
+    public void reset() {
+        length = 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int capacity() {
+        return chars.length;
+    }
+
+    public ReportBuffer append(char c) {
+        ensureCapacity(1);
+        chars[length++] = c;
+        return this;
+    }
+
+    public ReportBuffer append(String text) {
+        int n = text.length();
+        ensureCapacity(n);
+        text.getChars(0, n, chars, length);
+        length += n;
+        return this;
+    }
+
+    public ReportBuffer appendText(String text) {
+        return append(text == null ? "null" : text);
+    }
+
+    public ReportBuffer appendPadded(String text, int width) {
+        int start = length;
+        appendText(text);
+        while (length - start < width) {
+            append(' ');
+        }
+        return this;
+    }
+
+    public ReportBuffer appendLong(long value) {
+        if (value < 0) {
+            append('-');
+            if (value == Long.MIN_VALUE) return append("9223372036854775808");
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return appendDigits(pos);
+    }
+
+    // Same output as String.format("%.Nf") for 0-4 decimals. Magnitudes of 1e12 and
+    // above, NaN and infinities are rare enough to hand to the JDK itself.
+    public ReportBuffer appendFixed(double value, int decimals) {
+        if (!(Math.abs(value) < FAST_PATH_LIMIT)) return append(String.format("%." + decimals + "f", value));
+        long scaled = round(Math.abs(value), decimals, RoundingMode.HALF_UP);
+        if (isNegative(value)) append('-');
+
+        int pos = digits.length;
+        for (int i = 0; i < decimals; i++) {
+            digits[--pos] = (char) ('0' + scaled % 10);
+            scaled /= 10;
+        }
+        if (decimals > 0) digits[--pos] = '.';
+        do {
+            digits[--pos] = (char) ('0' + scaled % 10);
+            scaled /= 10;
+        } while (scaled != 0);
+        return appendDigits(pos);
+    }
+
+    // Same output as DecimalFormat("₱###,###.##"): grouped, at most two decimals, no trailing
+    // zeros. Like appendFixed, it falls back to the JDK from 1e12 up and for NaN/infinities.
+    public ReportBuffer appendPeso(double value) {
+        if (!(Math.abs(value) < FAST_PATH_LIMIT)) return append(new DecimalFormat("₱###,###.##").format(value));
+        long cents = round(Math.abs(value), 2, RoundingMode.HALF_EVEN);
+        if (isNegative(value)) append('-');
+        append(PESO);
+
+        long whole = cents / 100;
+        int fraction = (int) (cents % 100);
+        int pos = digits.length;
+        if (fraction != 0) {
+            if (fraction % 10 != 0) digits[--pos] = (char) ('0' + fraction % 10);
+            digits[--pos] = (char) ('0' + fraction / 10);
+            digits[--pos] = '.';
+        }
+        int group = 0;
+        do {
+            if (group++ == 3) {
+                digits[--pos] = ',';
+                group = 1;
+            }
+            digits[--pos] = (char) ('0' + whole % 10);
+            whole /= 10;
+        } while (whole != 0);
+        return appendDigits(pos);
+    }
+
+    public void beginLine(int indent, String label) {
+        appendIndent(indent);
+        appendText(label).append(": ");
+    }
+
+    public void endLine() {
+        append('\n');
+    }
+
+    public void section(int indent, String label) {
+        appendIndent(indent);
+        appendText(label).append(":\n");
+    }
+
+    public void blankLine() {
+        append('\n');
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void appendIndent(int indent) {
+        for (int i = 0; i < indent; i++) {
+            append("  ");
+        }
+    }
+
+    private ReportBuffer appendDigits(int pos) {
+        int n = digits.length - pos;
+        ensureCapacity(n);
+        System.arraycopy(digits, pos, chars, length, n);
+        length += n;
+        return this;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + extra));
+        }
+    }
+
+    // The JDK keeps the sign of values that round to zero, and of -0.0
+    private static boolean isNegative(double value) {
+        return Double.doubleToRawLongBits(value) < 0;
+    }
+
+    // Formatter rounds the shortest decimal representation half-up, DecimalFormat the exact
+    // binary value half-even. Both differ from abs * 10^n by about one ulp of the product,
+    // so only values within a few ulps of a tie need BigDecimal to agree.
+    private static long round(double abs, int decimals, RoundingMode mode) {
+        double scaled = abs * POWERS_OF_TEN[decimals];
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) > Math.max(1e-6, 4 * Math.ulp(scaled))) {
+            return (long) (fraction > 0.5 ? floor + 1 : floor);
+        }
+        BigDecimal exact = mode == RoundingMode.HALF_UP ? new BigDecimal(Double.toString(abs)) : new BigDecimal(abs);
+        return exact.setScale(decimals, mode).unscaledValue().longValue();
+    }
+}
@@ -0,0 +1,39 @@
+import java.util.List;
+
+public class ReportRenderer {
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final ThreadLocal<ReportBuffer> BUFFER = ThreadLocal.withInitial(() -> new ReportBuffer(BUFFER_CAPACITY));
+    private static final ThreadLocal<ReportBuffer> FIELD_BUFFER = ThreadLocal.withInitial(() -> new ReportBuffer(32));
+
+    public static String formatPeso(double value) {
+        ReportBuffer out = FIELD_BUFFER.get();
+        out.reset();
+        return out.appendPeso(value).toString();
+    }
+
+    public static String render(ReportTemplate template, List<Employee> employees) {
+        ReportBuffer out = BUFFER.get();
+        out.reset();
+        render(template, employees, out);
+        String report = out.toString();
+        // One huge report should not pin its buffer on this thread (usually the EDT) for good
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.set(new ReportBuffer(BUFFER_CAPACITY));
+        }
+        return report;
+    }
+
+    public static PayrollTotals render(ReportTemplate template, List<Employee> employees, ReportBuffer out) {
+        PayPeriod period = template.getPeriod();
+        PayrollTotals totals = new PayrollTotals();
+
+        template.renderHeader(out);
+        for (Employee emp : employees) {
+            template.renderEmployee(out, emp);
+            totals.add(period, emp);
+        }
+        template.renderTotals(out, totals);
+        return totals;
+    }
+}
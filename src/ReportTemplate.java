@@ -0,0 +1,27 @@
+public interface ReportTemplate {
+    PayPeriod getPeriod();
+
+    void renderBreakdown(ReportBuffer out, Employee emp);
+
+    default String getTitle() {
+        return getPeriod().getLabel().toUpperCase() + " PAYROLL REPORT";
+    }
+
+    default void renderHeader(ReportBuffer out) {
+        out.append("===== ").append(getTitle()).append(" =====\n\n");
+    }
+
+    default void renderEmployee(ReportBuffer out, Employee emp) {
+        out.appendPadded(emp.getName(), 20).append(" (ID: ").appendLong(emp.getId()).append(")\n");
+        renderBreakdown(out, emp);
+        out.blankLine();
+    }
+
+    default void renderTotals(ReportBuffer out, PayrollTotals totals) {
+        String period = getPeriod().getLabel().toUpperCase();
+        out.append("\n======================\n");
+        out.append("TOTAL ").append(period).append(" GROSS PAYROLL: ").appendPeso(totals.getGross()).append('\n');
+        out.append("TOTAL ").append(period).append(" DEDUCTIONS: ").appendPeso(totals.getDeductions()).append('\n');
+        out.append("TOTAL ").append(period).append(" NET PAYROLL: ").appendPeso(totals.getNet());
+    }
+}
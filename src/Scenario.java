@@ -0,0 +1,34 @@
+public class Scenario {
+    private final String name;
+    private final double rateMultiplier;
+    private final int workingDays;
+
+    public Scenario(String name, double rateMultiplier, int workingDays) {
+        if (rateMultiplier <= 0) {
+            throw new IllegalArgumentException("Rate multiplier must be positive");
+        }
+        if (workingDays < 0 || workingDays > 7) {
+            throw new IllegalArgumentException("Working days must be between 1 and 7, or 0 to keep each employee's own");
+        }
+        this.name = name;
+        this.rateMultiplier = rateMultiplier;
+        this.workingDays = workingDays;
+    }
+
+    public static Scenario raise(double percent) {
+        return new Scenario(String.format("%.1f%% hourly raise", percent), 1 + percent / 100, 0);
+    }
+
+    public static Scenario workingDays(int days) {
+        return new Scenario(days + " working days", 1, days);
+    }
+
+    public String getName() { return name; }
+    public double getRateMultiplier() { return rateMultiplier; }
+    public int getWorkingDays() { return workingDays; }
+
+    public Employee apply(Employee emp) {
+        int days = workingDays == 0 ? emp.getWorkingDays() : workingDays;
+        return emp.simulate(emp.getHourlyRate() * rateMultiplier, days);
+    }
+}
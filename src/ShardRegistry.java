@@ -0,0 +1,59 @@
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ShardRegistry {
+    public static final String DEFAULT_SHARD = "main";
+    private static final String DEFAULT_URL = "jdbc:sqlite:payroll.db";
+    private static final Map<String, String> shards = new ConcurrentHashMap<>();
+
+    static {
+        shards.put(DEFAULT_SHARD, DEFAULT_URL);
+    }
+
+    public static String getUrl(String shard) {
+        String url = shards.get(shard);
+        if (url == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return url;
+    }
+
+    public static List<String> getShards() {
+        List<String> names = new ArrayList<>(shards.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    public static void register(String shard) throws SQLException {
+        if (shard == null || !shard.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Shard name may only contain letters, digits, '-' and '_'");
+        }
+        if (shards.containsKey(shard)) return;
+
+        String url = "jdbc:sqlite:payroll_" + shard + ".db";
+        String sql = "INSERT OR IGNORE INTO shards(name, url) VALUES(?,?)";
+        try (Connection conn = DatabaseHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, shard);
+            pstmt.setString(2, url);
+            pstmt.executeUpdate();
+        }
+        shards.put(shard, url);
+        DatabaseHelper.initializeShard(shard);
+    }
+
+    public static void loadShards() throws SQLException {
+        String sql = "SELECT name, url FROM shards";
+        try (Connection conn = DatabaseHelper.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                shards.put(rs.getString("name"), rs.getString("url"));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class SimulationEngine {
+    private final Employee[] workforce;
+    private final PayPeriod period;
+    private final PayrollTotals baseline;
+    private final double[] baselinePercentiles;
+
+    public SimulationEngine(List<Employee> employees, PayPeriod period) {
+        this.workforce = new Employee[employees.size()];
+        for (int i = 0; i < workforce.length; i++) {
+            workforce[i] = new Employee(employees.get(i));
+        }
+        this.period = period;
+
+        double[] net = new double[workforce.length];
+        this.baseline = IntStream.range(0, workforce.length).parallel().collect(
+            PayrollTotals::new,
+            (totals, i) -> {
+                net[i] = period.netPay(workforce[i]);
+                totals.add(period, workforce[i]);
+            },
+            PayrollTotals::merge
+        );
+        this.baselinePercentiles = percentiles(net);
+    }
+
+    public PayrollTotals getBaseline() { return baseline; }
+
+    public List<SimulationResult> run(List<Scenario> scenarios) {
+        List<SimulationResult> results = new ArrayList<>(scenarios.size());
+        for (Scenario scenario : scenarios) {
+            results.add(run(scenario));
+        }
+        return results;
+    }
+
+    public SimulationResult run(Scenario scenario) {
+        double[] net = new double[workforce.length];
+        PayrollTotals after = IntStream.range(0, workforce.length).parallel().collect(
+            PayrollTotals::new,
+            (totals, i) -> {
+                Employee simulated = scenario.apply(workforce[i]);
+                net[i] = period.netPay(simulated);
+                totals.add(period, simulated);
+            },
+            PayrollTotals::merge
+        );
+        return new SimulationResult(scenario, baseline, after, baselinePercentiles, percentiles(net));
+    }
+
+    private static double[] percentiles(double[] values) {
+        double[] result = new double[SimulationResult.PERCENTILES.length];
+        if (values.length == 0) return result;
+
+        Arrays.parallelSort(values);
+        for (int i = 0; i < result.length; i++) {
+            int index = (int) Math.round(SimulationResult.PERCENTILES[i] * (values.length - 1));
+            result[i] = values[index];
+        }
+        return result;
+    }
+}
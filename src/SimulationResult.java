@@ -0,0 +1,32 @@
+public class SimulationResult {
+    public static final double[] PERCENTILES = {0.10, 0.25, 0.50, 0.75, 0.90};
+
+    private final Scenario scenario;
+    private final PayrollTotals before;
+    private final PayrollTotals after;
+    private final double[] netPercentilesBefore;
+    private final double[] netPercentilesAfter;
+
+    public SimulationResult(Scenario scenario, PayrollTotals before, PayrollTotals after,
+                            double[] netPercentilesBefore, double[] netPercentilesAfter) {
+        this.scenario = scenario;
+        this.before = before;
+        this.after = after;
+        this.netPercentilesBefore = netPercentilesBefore;
+        this.netPercentilesAfter = netPercentilesAfter;
+    }
+
+    public Scenario getScenario() { return scenario; }
+    public PayrollTotals getBefore() { return before; }
+    public PayrollTotals getAfter() { return after; }
+    public double[] getNetPercentilesBefore() { return netPercentilesBefore.clone(); }
+    public double[] getNetPercentilesAfter() { return netPercentilesAfter.clone(); }
+
+    public double getNetChange() {
+        return after.getNet() - before.getNet();
+    }
+
+    public double getTaxChange() {
+        return after.getTax() - before.getTax();
+    }
+}
@@ -0,0 +1,84 @@
+public enum StandardReportTemplate implements ReportTemplate {
+    DAILY(PayPeriod.DAILY),
+    WEEKLY(PayPeriod.WEEKLY),
+    MONTHLY(PayPeriod.MONTHLY);
+
+    private final PayPeriod period;
+    private final String grossLabel;
+    private final String deductionsLabel;
+    private final String netLabel;
+
+    StandardReportTemplate(PayPeriod period) {
+        this.period = period;
+        this.grossLabel = period.getLabel() + " Gross Pay";
+        this.deductionsLabel = period.getLabel() + " Deductions";
+        this.netLabel = period.getLabel().toUpperCase() + " NET PAY";
+    }
+
+    @Override
+    public PayPeriod getPeriod() { return period; }
+
+    @Override
+    public void renderBreakdown(ReportBuffer out, Employee emp) {
+        out.beginLine(1, "Position");
+        out.appendText(emp.getPosition());
+        out.endLine();
+        out.beginLine(1, "Hourly Rate");
+        out.appendPeso(emp.getHourlyRate());
+        out.endLine();
+
+        out.beginLine(1, "Regular Hours");
+        out.appendFixed(emp.getHoursWorked(), 2);
+        if (period != PayPeriod.DAILY) out.append("/day");
+        out.endLine();
+
+        out.beginLine(1, "Overtime Hours");
+        switch (period) {
+            case DAILY:
+                out.appendFixed(emp.getOvertimeHours(), 2);
+                break;
+            case WEEKLY:
+                out.appendFixed(emp.getOvertimeHours() * emp.getWorkingDays(), 2).append("/week");
+                break;
+            default:
+                out.appendFixed(emp.getOvertimeHours() * emp.getWorkingDays() * 4, 2).append("/month");
+        }
+        out.endLine();
+
+        if (period != PayPeriod.DAILY) {
+            out.beginLine(1, "Working Days");
+            out.appendLong(emp.getWorkingDays()).append(period == PayPeriod.WEEKLY ? " days" : " days/week");
+            out.endLine();
+        }
+
+        out.beginLine(1, grossLabel);
+        out.appendPeso(period.grossPay(emp));
+        out.endLine();
+
+        out.section(1, deductionsLabel);
+        out.beginLine(2, "SSS");
+        out.appendPeso(period.share(emp, emp.getSss()));
+        out.endLine();
+        out.beginLine(2, "PhilHealth");
+        out.appendPeso(period.share(emp, emp.getPhilhealth()));
+        out.endLine();
+        out.beginLine(2, "Pag-IBIG");
+        out.appendPeso(period.share(emp, emp.getPagibig()));
+        out.endLine();
+        out.beginLine(2, "Tax");
+        out.appendPeso(period.share(emp, emp.getTax()));
+        out.endLine();
+
+        out.beginLine(1, netLabel);
+        out.appendPeso(period.netPay(emp));
+        out.endLine();
+    }
+
+    public static StandardReportTemplate forPeriod(PayPeriod period) {
+        switch (period) {
+            case DAILY: return DAILY;
+            case WEEKLY: return WEEKLY;
+            default: return MONTHLY;
+        }
+    }
+}